@@ -1,33 +1,43 @@
 package ca.cmpt213.ans4_q2.game;
 
-import javafx.scene.image.Image;
-
 /**
  * Card represents a single card in the Memory Matching Game.
- * It contains the card's image and the associated sound file.
+ * It contains the card's face id, image URL and the associated sound file.
  */
 public class Card {
-    private Image image;
+    private int faceId;
+    private String imageUrl;
     private String soundFile;
 
     /**
-     * Constructs a Card instance with the specified image and sound file.
+     * Constructs a Card instance with the specified face id, image URL and sound file.
      *
-     * @param image     the image of the card
+     * @param faceId    the id of the card's face, shared by both cards of a pair
+     * @param imageUrl  the URL of the card's image
      * @param soundFile the sound file associated with the card
      */
-    public Card(Image image, String soundFile) {
-        this.image = image;
+    public Card(int faceId, String imageUrl, String soundFile) {
+        this.faceId = faceId;
+        this.imageUrl = imageUrl;
         this.soundFile = soundFile;
     }
 
     /**
-     * Retrieves the image of the card.
+     * Retrieves the id of the card's face.
+     *
+     * @return the id of the card's face
+     */
+    public int getFaceId() {
+        return faceId;
+    }
+
+    /**
+     * Retrieves the URL of the card's image.
      *
-     * @return the image of the card
+     * @return the URL of the card's image
      */
-    public Image getImage() {
-        return image;
+    public String getImageUrl() {
+        return imageUrl;
     }
 
     /**
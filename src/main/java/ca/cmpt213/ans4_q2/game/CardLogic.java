@@ -1,25 +1,26 @@
 package ca.cmpt213.ans4_q2.game;
 
-import javafx.scene.image.Image;
-
 /**
  * CardLogic represents the logic and state of a single card in the Memory Matching Game.
- * It manages the card's image, revealed state, matched state, and associated sound file.
+ * It manages the card's face, image URL, revealed state, matched state, and associated sound file.
  */
 public class CardLogic {
-    private Image image;
+    private int faceId;
+    private String imageUrl;
     private boolean revealed;
     private boolean matched;
     private String soundFile;
 
     /**
-     * Constructs a CardLogic instance with the specified image and sound file.
+     * Constructs a CardLogic instance with the specified face id, image URL and sound file.
      *
-     * @param image     the image of the card
+     * @param faceId    the id of the card's face, shared by both cards of a pair
+     * @param imageUrl  the URL of the card's image
      * @param soundFile the sound file associated with the card
      */
-    public CardLogic(Image image, String soundFile) {
-        this.image = image;
+    public CardLogic(int faceId, String imageUrl, String soundFile) {
+        this.faceId = faceId;
+        this.imageUrl = imageUrl;
         this.revealed = false;
         this.matched = false;
         this.soundFile = soundFile;
@@ -65,22 +66,31 @@ public class CardLogic {
     }
 
     /**
-     * Retrieves the image of the card.
+     * Retrieves the id of the card's face.
+     *
+     * @return the id of the card's face
+     */
+    public int getFaceId() {
+        return faceId;
+    }
+
+    /**
+     * Retrieves the URL of the card's image.
      *
-     * @return the image of the card
+     * @return the URL of the card's image
      */
-    public Image getImage() {
-        return image;
+    public String getImageUrl() {
+        return imageUrl;
     }
 
     /**
-     * Checks if this card matches another card based on their images.
+     * Checks if this card matches another card based on their faces.
      *
      * @param other the other card to compare with
-     * @return true if the cards have the same image, false otherwise
+     * @return true if the cards have the same face, false otherwise
      */
     public boolean matches(CardLogic other) {
-        return this.image.equals(other.image);
+        return this.faceId == other.faceId;
     }
 
     /**
@@ -0,0 +1,85 @@
+package ca.cmpt213.ans4_q2.game;
+
+/**
+ * GameEvent represents a single change in the state of the Memory Matching Game.
+ * It carries the event type along with the card position, face id and move count the event refers to.
+ */
+public class GameEvent {
+    private final GameEventType type;
+    private final int row;
+    private final int col;
+    private final int faceId;
+    private final int moveCount;
+
+    /**
+     * Constructs a GameEvent with the specified type, card position, face id and move count.
+     *
+     * @param type      the type of the event
+     * @param row       the row of the card the event refers to, or -1
+     * @param col       the column of the card the event refers to, or -1
+     * @param faceId    the face id of the card the event refers to, or -1
+     * @param moveCount the move count at the time of the event
+     */
+    public GameEvent(GameEventType type, int row, int col, int faceId, int moveCount) {
+        this.type = type;
+        this.row = row;
+        this.col = col;
+        this.faceId = faceId;
+        this.moveCount = moveCount;
+    }
+
+    /**
+     * Constructs a GameEvent that does not refer to a card.
+     *
+     * @param type      the type of the event
+     * @param moveCount the move count at the time of the event
+     */
+    public GameEvent(GameEventType type, int moveCount) {
+        this(type, -1, -1, -1, moveCount);
+    }
+
+    /**
+     * Retrieves the type of the event.
+     *
+     * @return the type of the event
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the row of the card the event refers to.
+     *
+     * @return the row of the card, or -1 if the event does not refer to a card
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Retrieves the column of the card the event refers to.
+     *
+     * @return the column of the card, or -1 if the event does not refer to a card
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Retrieves the face id of the card the event refers to.
+     *
+     * @return the face id of the card, or -1 if the event does not refer to a card
+     */
+    public int getFaceId() {
+        return faceId;
+    }
+
+    /**
+     * Retrieves the move count at the time of the event.
+     *
+     * @return the move count
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+}
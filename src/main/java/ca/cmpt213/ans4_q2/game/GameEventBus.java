@@ -0,0 +1,207 @@
+package ca.cmpt213.ans4_q2.game;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * GameEventBus delivers game events to any number of subscribers.
+ * Each subscriber has its own bounded queue and executor, so publishing never waits
+ * for a subscriber to handle an event. A coalescable event replaces a pending event of
+ * the same type and moves to the end of the queue, so events stay in publishing order.
+ * When a queue overflows, its pending events are discarded and replaced by a single
+ * EVENTS_DROPPED event, after which the subscriber has to resynchronize with the game.
+ * An exception thrown by a listener is logged and counted, and a subscription whose
+ * executor rejects delivery is unsubscribed; neither ever reaches the publisher.
+ */
+public class GameEventBus {
+    private static final Logger LOGGER = System.getLogger(GameEventBus.class.getName());
+
+    private final List<Subscription> subscriptions;
+
+    /**
+     * Constructs a GameEventBus with no subscribers.
+     */
+    public GameEventBus() {
+        this.subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Subscribes a listener to all events published on this bus.
+     * Events are handed to the listener through the given executor, one at a time and in order.
+     * Use {@code Runnable::run} to handle events on the publishing thread.
+     *
+     * @param listener the listener to notify
+     * @param executor the executor that runs the listener
+     * @param capacity the maximum number of pending events before they are dropped
+     * @return the subscription, which can be passed to {@link #unsubscribe(Subscription)}
+     */
+    public Subscription subscribe(Consumer<GameEvent> listener, Executor executor, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        Subscription subscription = new Subscription(this, listener, executor, capacity);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Removes a subscription so that it receives no further events.
+     *
+     * @param subscription the subscription to remove
+     */
+    public void unsubscribe(Subscription subscription) {
+        subscription.active = false;
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Publishes an event to every subscriber.
+     *
+     * @param event the event to publish
+     */
+    public void publish(GameEvent event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * Subscription holds the pending events of a single subscriber and delivers them.
+     */
+    public static class Subscription {
+        private final GameEventBus bus;
+        private final Consumer<GameEvent> listener;
+        private final Executor executor;
+        private final int capacity;
+        private final ArrayDeque<GameEvent> queue;
+        private final Map<GameEventType, GameEvent> latest;
+        private boolean scheduled;
+        private long droppedCount;
+        private long failedCount;
+        private volatile boolean active;
+
+        /**
+         * Constructs a Subscription for the specified listener.
+         *
+         * @param bus      the bus the subscription belongs to
+         * @param listener the listener to notify
+         * @param executor the executor that runs the listener
+         * @param capacity the maximum number of pending events
+         */
+        private Subscription(GameEventBus bus, Consumer<GameEvent> listener, Executor executor, int capacity) {
+            this.bus = bus;
+            this.listener = listener;
+            this.executor = executor;
+            this.capacity = capacity;
+            this.queue = new ArrayDeque<>();
+            this.latest = new EnumMap<>(GameEventType.class);
+            this.active = true;
+        }
+
+        /**
+         * Queues an event for delivery, replacing a pending event of the same type when it
+         * is coalescable, and schedules delivery if none is in progress.
+         *
+         * @param event the event to queue
+         */
+        private void offer(GameEvent event) {
+            if (!active) {
+                return;
+            }
+            GameEventType type = event.getType();
+            synchronized (this) {
+                if (type.isCoalescable() && latest.containsKey(type)) {
+                    queue.removeLastOccurrence(latest.get(type));
+                } else if (queue.size() >= capacity) {
+                    // Once events are lost the stream can't be replayed, so ask for a resync instead
+                    droppedCount += queue.size();
+                    queue.clear();
+                    latest.clear();
+                    queue.add(new GameEvent(GameEventType.EVENTS_DROPPED, event.getMoveCount()));
+                }
+                queue.add(event);
+                if (type.isCoalescable()) {
+                    latest.put(type, event);
+                }
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    scheduled = false;
+                    queue.clear();
+                    latest.clear();
+                }
+                bus.unsubscribe(this);
+                LOGGER.log(Level.WARNING, "Executor rejected event delivery, unsubscribing listener", e);
+            }
+        }
+
+        /**
+         * Delivers pending events to the listener until the queue is empty.
+         */
+        private void drain() {
+            while (true) {
+                GameEvent event;
+                synchronized (this) {
+                    event = queue.poll();
+                    if (event == null) {
+                        scheduled = false;
+                        return;
+                    }
+                    if (event.getType().isCoalescable()) {
+                        latest.remove(event.getType());
+                    }
+                }
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        failedCount++;
+                    }
+                    LOGGER.log(Level.WARNING, "Listener failed to handle " + event.getType() + " event", e);
+                }
+            }
+        }
+
+        /**
+         * Checks if the subscription still receives events. A subscription stops receiving
+         * events when it is unsubscribed or when its executor rejects delivery.
+         *
+         * @return true if the subscription is active, false otherwise
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * Retrieves the number of events dropped because the queue was full.
+         *
+         * @return the number of dropped events
+         */
+        public synchronized long getDroppedCount() {
+            return droppedCount;
+        }
+
+        /**
+         * Retrieves the number of events whose listener threw an exception.
+         *
+         * @return the number of failed events
+         */
+        public synchronized long getFailedCount() {
+            return failedCount;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ca.cmpt213.ans4_q2.game;
+
+/**
+ * GameEventType lists the kinds of events published by the Memory Matching Game.
+ * Coalescable events only carry the latest state, so a subscriber that has not yet
+ * received one only needs the most recent of them.
+ */
+public enum GameEventType {
+    BOARD_UPDATED(true),
+    MOVE_COUNT_CHANGED(true),
+    GAME_RESET(false),
+    CARD_REVEALED(false),
+    CARD_HIDDEN(false),
+    CARD_MATCHED(false),
+    PROCESSING_STARTED(false),
+    PROCESSING_ENDED(false),
+    GAME_WON(false),
+    EVENTS_DROPPED(false);
+
+    private final boolean coalescable;
+
+    /**
+     * Constructs a GameEventType with the specified coalescing behaviour.
+     *
+     * @param coalescable true if pending events of this type can be replaced by a newer one
+     */
+    GameEventType(boolean coalescable) {
+        this.coalescable = coalescable;
+    }
+
+    /**
+     * Checks if pending events of this type can be replaced by a newer one.
+     *
+     * @return true if the event type is coalescable, false otherwise
+     */
+    public boolean isCoalescable() {
+        return coalescable;
+    }
+}
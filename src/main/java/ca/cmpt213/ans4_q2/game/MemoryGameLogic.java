@@ -1,7 +1,6 @@
 package ca.cmpt213.ans4_q2.game;
 
 import javafx.application.Platform;
-import javafx.scene.image.Image;
 import javafx.util.Duration;
 import javafx.animation.PauseTransition;
 import javafx.scene.media.Media;
@@ -21,12 +20,11 @@ public class MemoryGameLogic {
     private boolean firstCardRevealed;
     private CardLogic firstCard;
     private CardLogic secondCard;
-    private Runnable onBoardUpdated;
-    private Runnable onProcessingStart;
-    private Runnable onProcessingEnd;
-    private Runnable onGameWon;
+    private int firstRow;
+    private int firstCol;
     private int moveCount;
-    private Runnable onMoveCountChanged;
+    private SeenCardIndex seenCards;
+    private GameEventBus eventBus;
 
     /**
      * Constructs a MemoryGameLogic instance and initializes the game board.
@@ -34,65 +32,35 @@ public class MemoryGameLogic {
     public MemoryGameLogic() {
         this.board = new CardLogic[4][4];
         this.cards = new ArrayList<>();  // Initialize cards list
+        this.seenCards = new SeenCardIndex(4);
+        this.eventBus = new GameEventBus();
         loadCards();
         resetGame();
     }
 
     /**
      * Loads the card images and sounds into the cards list.
+     * Only image URLs are kept; the UI decodes the images at display resolution.
      */
     private void loadCards() {
         for (int i = 1; i <= 8; i++) {
-            Image image = new Image(getClass().getResourceAsStream("/Images/" + i + ".png"));
+            String imageUrl = getClass().getResource("/Images/" + i + ".png").toString();
             String soundFile = getClass().getResource("/Sounds/" + i + ".mp3").toString();
-            cards.add(new Card(image, soundFile));
-            cards.add(new Card(image, soundFile)); // Add each card twice
+            cards.add(new Card(i, imageUrl, soundFile));
+            cards.add(new Card(i, imageUrl, soundFile)); // Add each card twice
         }
     }
 
     /**
-     * Sets the callback to be invoked when the board is updated.
+     * Retrieves the event bus on which game events are published.
+     * Events are published on the JavaFX thread. This class may only be read from that thread,
+     * so subscribers running on other executors follow the board through the state carried by
+     * the events, and only read the game state on the JavaFX thread after EVENTS_DROPPED.
      *
-     * @param onBoardUpdated the callback to set
+     * @return the event bus
      */
-    public void setOnBoardUpdated(Runnable onBoardUpdated) {
-        this.onBoardUpdated = onBoardUpdated;
-    }
-
-    /**
-     * Sets the callback to be invoked when processing starts.
-     *
-     * @param onProcessingStart the callback to set
-     */
-    public void setOnProcessingStart(Runnable onProcessingStart) {
-        this.onProcessingStart = onProcessingStart;
-    }
-
-    /**
-     * Sets the callback to be invoked when processing ends.
-     *
-     * @param onProcessingEnd the callback to set
-     */
-    public void setOnProcessingEnd(Runnable onProcessingEnd) {
-        this.onProcessingEnd = onProcessingEnd;
-    }
-
-    /**
-     * Sets the callback to be invoked when the game is won.
-     *
-     * @param onGameWon the callback to set
-     */
-    public void setOnGameWon(Runnable onGameWon) {
-        this.onGameWon = onGameWon;
-    }
-
-    /**
-     * Sets the callback to be invoked when the move count changes.
-     *
-     * @param onMoveCountChanged the callback to set
-     */
-    public void setOnMoveCountChanged(Runnable onMoveCountChanged) {
-        this.onMoveCountChanged = onMoveCountChanged;
+    public GameEventBus getEventBus() {
+        return eventBus;
     }
 
     /**
@@ -103,8 +71,10 @@ public class MemoryGameLogic {
         firstCard = null;
         secondCard = null;
         moveCount = 0;
+        seenCards.clear();
         shuffleCards();
         initializeBoard();
+        eventBus.publish(new GameEvent(GameEventType.GAME_RESET, 0));
         notifyBoardUpdated();
         notifyMoveCountChanged();
     }
@@ -124,7 +94,7 @@ public class MemoryGameLogic {
         for (int row = 0; row < 4; row++) {
             for (int col = 0; col < 4; col++) {
                 Card card = cards.get(cardIndex);
-                board[row][col] = new CardLogic(card.getImage(), card.getSoundFile());
+                board[row][col] = new CardLogic(card.getFaceId(), card.getImageUrl(), card.getSoundFile());
                 cardIndex++;
             }
         }
@@ -150,11 +120,15 @@ public class MemoryGameLogic {
     public void revealCard(int row, int col) {
         CardLogic card = board[row][col];
         card.reveal();
+        seenCards.recordReveal(row, col, card.getFaceId());
+        notifyCardChanged(GameEventType.CARD_REVEALED, row, col);
         notifyBoardUpdated();
 
         if (!firstCardRevealed) {
             firstCardRevealed = true;
             firstCard = card;
+            firstRow = row;
+            firstCol = col;
         } else {
             secondCard = card;
             notifyProcessingStart();
@@ -167,6 +141,8 @@ public class MemoryGameLogic {
                     Platform.runLater(() -> {
                         firstCard.hide();
                         secondCard.hide();
+                        notifyCardChanged(GameEventType.CARD_HIDDEN, firstRow, firstCol);
+                        notifyCardChanged(GameEventType.CARD_HIDDEN, row, col);
                         firstCardRevealed = false;
                         notifyBoardUpdated();
                         notifyProcessingEnd();
@@ -176,6 +152,9 @@ public class MemoryGameLogic {
             } else {
                 firstCard.match();
                 secondCard.match();
+                seenCards.recordMatch(firstCard.getFaceId());
+                notifyCardChanged(GameEventType.CARD_MATCHED, firstRow, firstCol);
+                notifyCardChanged(GameEventType.CARD_MATCHED, row, col);
                 playSound(firstCard.getSoundFile());
                 firstCardRevealed = false;
                 notifyBoardUpdated();
@@ -205,59 +184,89 @@ public class MemoryGameLogic {
     }
 
     /**
-     * Retrieves the image for a card at the specified position.
+     * Checks if both cards of any unmatched pair have already been seen.
+     *
+     * @return true if there is a known pair, false otherwise
+     */
+    public boolean hasKnownPair() {
+        return seenCards.hasKnownPair();
+    }
+
+    /**
+     * Retrieves the positions of an unmatched pair whose cards have both been seen.
+     *
+     * @return the pair as {row1, col1, row2, col2}, or null if no pair is known
+     */
+    public int[] getKnownPair() {
+        return seenCards.getKnownPair();
+    }
+
+    /**
+     * Retrieves the position where the partner of a previously seen card was seen.
      *
      * @param row the row of the card
      * @param col the column of the card
-     * @return the image of the card if it is revealed or matched, null otherwise
+     * @return the partner's position as {row, col}, or null if either card has not been seen
      */
-    public Image getImageForCard(int row, int col) {
-        return board[row][col].isRevealed() || board[row][col].isMatched() ? board[row][col].getImage() : null;
+    public int[] findKnownPartner(int row, int col) {
+        return seenCards.findPartner(row, col, board[row][col].getFaceId());
     }
 
     /**
-     * Notifies the callback that the board has been updated.
+     * Retrieves the image URL for a card at the specified position.
+     *
+     * @param row the row of the card
+     * @param col the column of the card
+     * @return the image URL of the card if it is revealed or matched, null otherwise
+     */
+    public String getImageUrlForCard(int row, int col) {
+        return board[row][col].isRevealed() || board[row][col].isMatched() ? board[row][col].getImageUrl() : null;
+    }
+
+    /**
+     * Publishes an event about a single card, including its position and face.
+     *
+     * @param type the type of the event
+     * @param row  the row of the card
+     * @param col  the column of the card
+     */
+    private void notifyCardChanged(GameEventType type, int row, int col) {
+        eventBus.publish(new GameEvent(type, row, col, board[row][col].getFaceId(), moveCount));
+    }
+
+    /**
+     * Publishes an event that the board has been updated.
      */
     private void notifyBoardUpdated() {
-        if (onBoardUpdated != null) {
-            onBoardUpdated.run();
-        }
+        eventBus.publish(new GameEvent(GameEventType.BOARD_UPDATED, moveCount));
     }
 
     /**
-     * Notifies the callback that processing has started.
+     * Publishes an event that processing has started.
      */
     private void notifyProcessingStart() {
-        if (onProcessingStart != null) {
-            onProcessingStart.run();
-        }
+        eventBus.publish(new GameEvent(GameEventType.PROCESSING_STARTED, moveCount));
     }
 
     /**
-     * Notifies the callback that processing has ended.
+     * Publishes an event that processing has ended.
      */
     private void notifyProcessingEnd() {
-        if (onProcessingEnd != null) {
-            onProcessingEnd.run();
-        }
+        eventBus.publish(new GameEvent(GameEventType.PROCESSING_ENDED, moveCount));
     }
 
     /**
-     * Notifies the callback that the game has been won.
+     * Publishes an event that the game has been won.
      */
     private void notifyGameWon() {
-        if (onGameWon != null) {
-            onGameWon.run();
-        }
+        eventBus.publish(new GameEvent(GameEventType.GAME_WON, moveCount));
     }
 
     /**
-     * Notifies the callback that the move count has changed.
+     * Publishes an event that the move count has changed.
      */
     private void notifyMoveCountChanged() {
-        if (onMoveCountChanged != null) {
-            onMoveCountChanged.run();
-        }
+        eventBus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, moveCount));
     }
 
     /**
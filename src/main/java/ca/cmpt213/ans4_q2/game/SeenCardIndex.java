@@ -0,0 +1,127 @@
+package ca.cmpt213.ans4_q2.game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SeenCardIndex keeps track of which faces have been revealed at which board positions.
+ * It is updated incrementally as cards are revealed and matched, so hints and bot moves
+ * can be answered without rescanning the board or the move history.
+ */
+public class SeenCardIndex {
+    private final int columns;
+    private final Map<Integer, List<Integer>> seenPositions;
+    private final Set<Integer> knownPairs;
+
+    /**
+     * Constructs an empty SeenCardIndex for a board with the specified number of columns.
+     *
+     * @param columns the number of columns on the board
+     */
+    public SeenCardIndex(int columns) {
+        this.columns = columns;
+        this.seenPositions = new HashMap<>();
+        this.knownPairs = new LinkedHashSet<>();
+    }
+
+    /**
+     * Records that a face has been seen at the specified position.
+     * If both positions of the face are now known, the face becomes a known pair.
+     *
+     * @param row    the row of the revealed card
+     * @param col    the column of the revealed card
+     * @param faceId the face id of the revealed card
+     */
+    public void recordReveal(int row, int col, int faceId) {
+        List<Integer> positions = seenPositions.computeIfAbsent(faceId, key -> new ArrayList<>(2));
+        int position = toPosition(row, col);
+        if (!positions.contains(position)) {
+            positions.add(position);
+        }
+        if (positions.size() >= 2) {
+            knownPairs.add(faceId);
+        }
+    }
+
+    /**
+     * Records that a face has been matched, removing it from the index.
+     *
+     * @param faceId the face id of the matched cards
+     */
+    public void recordMatch(int faceId) {
+        seenPositions.remove(faceId);
+        knownPairs.remove(faceId);
+    }
+
+    /**
+     * Clears everything that has been seen, e.g. when a new game starts.
+     */
+    public void clear() {
+        seenPositions.clear();
+        knownPairs.clear();
+    }
+
+    /**
+     * Checks if both positions of any unmatched face are known.
+     *
+     * @return true if there is a known pair, false otherwise
+     */
+    public boolean hasKnownPair() {
+        return !knownPairs.isEmpty();
+    }
+
+    /**
+     * Retrieves the positions of a known but unmatched pair.
+     *
+     * @return the pair as {row1, col1, row2, col2}, or null if no pair is known
+     */
+    public int[] getKnownPair() {
+        Iterator<Integer> iterator = knownPairs.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        List<Integer> positions = seenPositions.get(iterator.next());
+        int first = positions.get(0);
+        int second = positions.get(1);
+        return new int[]{first / columns, first % columns, second / columns, second % columns};
+    }
+
+    /**
+     * Retrieves the position where the partner of the card at the specified position was seen.
+     * Only cards that have been seen themselves can have their partner looked up.
+     *
+     * @param row    the row of the card
+     * @param col    the column of the card
+     * @param faceId the face id of the card
+     * @return the partner's position as {row, col}, or null if either card has not been seen
+     */
+    public int[] findPartner(int row, int col, int faceId) {
+        List<Integer> positions = seenPositions.get(faceId);
+        int position = toPosition(row, col);
+        if (positions == null || !positions.contains(position)) {
+            return null;
+        }
+        for (int other : positions) {
+            if (other != position) {
+                return new int[]{other / columns, other % columns};
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a row and column into a single board position.
+     *
+     * @param row the row of the card
+     * @param col the column of the card
+     * @return the board position
+     */
+    private int toPosition(int row, int col) {
+        return row * columns + col;
+    }
+}
@@ -1,5 +1,6 @@
 package ca.cmpt213.ans4_q2.ui;
 
+import javafx.beans.InvalidationListener;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
@@ -13,7 +14,9 @@ public class Card extends StackPane {
     private int col;
     private GameBoard gameBoard;
     private ImageView imageView;
-    private Image BackImage = new Image(getClass().getResourceAsStream("/Images/BackPicture.png"));
+    private String backImageUrl = getClass().getResource("/Images/BackPicture.png").toString();
+    private Image pendingImage;
+    private InvalidationListener pendingListener;
 
     /**
      * Constructs a Card with the specified row, column, and reference to the GameBoard.
@@ -32,8 +35,6 @@ public class Card extends StackPane {
 
         // Set ImageView properties
         imageView.setPreserveRatio(true);
-        imageView.setFitHeight(150);
-        imageView.setFitWidth(150);
 
         // Add the back image to the StackPane
         getChildren().add(imageView);
@@ -41,8 +42,8 @@ public class Card extends StackPane {
         // Add mouse click event
         setOnMouseClicked(e -> handleClick());
 
-        // Set preferred size of the card
-        setPrefSize(150, 150);
+        // Set initial size of the card
+        setCardSize(150);
 
         // Apply a background color and style to the card
         setStyle("-fx-background-color: white;"
@@ -51,6 +52,19 @@ public class Card extends StackPane {
                 + "-fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.2), 5, 0, 0, 2);");
     }
 
+    /**
+     * Sets the on-screen size of the card and its image.
+     *
+     * @param size the width and height of the card
+     */
+    public void setCardSize(double size) {
+        imageView.setFitHeight(size);
+        imageView.setFitWidth(size);
+        setPrefSize(size, size);
+        setMinSize(size, size);
+        setMaxSize(size, size);
+    }
+
     /**
      * Handles the click event on the card and notifies the game board.
      */
@@ -61,13 +75,53 @@ public class Card extends StackPane {
     /**
      * Updates the card's image based on its current state in the game logic.
      * If the card is revealed, it shows the corresponding image; otherwise, it shows the back image.
+     * The image is taken at the resolution that fits the card's current size.
      */
     public void update() {
-        Image image = gameBoard.getGameLogic().getImageForCard(row, col);
-        if (image != null) {
-            imageView.setImage(image);
+        String imageUrl = gameBoard.getGameLogic().getImageUrlForCard(row, col);
+        if (imageUrl != null) {
+            showImage(gameBoard.getCardImage(imageUrl));
         } else {
-            imageView.setImage(BackImage);
+            showImage(gameBoard.getCardImage(backImageUrl));
+        }
+    }
+
+    /**
+     * Shows an image on the card. If the image is still loading in the background,
+     * the current image stays on screen until the new one has loaded or failed to load.
+     *
+     * @param image the image to show
+     */
+    private void showImage(Image image) {
+        if (image == pendingImage) {
+            return;
+        }
+        cancelPendingImage();
+        if (image.getProgress() >= 1 || image.isError() || imageView.getImage() == null) {
+            imageView.setImage(image);
+            return;
+        }
+        pendingImage = image;
+        pendingListener = observable -> {
+            // A failed image is shown too, so the card never keeps showing the wrong face
+            if (image.getProgress() >= 1 || image.isError()) {
+                cancelPendingImage();
+                imageView.setImage(image);
+            }
+        };
+        image.progressProperty().addListener(pendingListener);
+        image.errorProperty().addListener(pendingListener);
+    }
+
+    /**
+     * Stops waiting for the image that is still loading, if any.
+     */
+    private void cancelPendingImage() {
+        if (pendingImage != null) {
+            pendingImage.progressProperty().removeListener(pendingListener);
+            pendingImage.errorProperty().removeListener(pendingListener);
+            pendingImage = null;
+            pendingListener = null;
         }
     }
 }
@@ -7,7 +7,10 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Alert.AlertType;
+import javafx.scene.image.Image;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import ca.cmpt213.ans4_q2.game.GameEvent;
 import ca.cmpt213.ans4_q2.game.MemoryGameLogic;
 
 /**
@@ -15,10 +18,20 @@ import ca.cmpt213.ans4_q2.game.MemoryGameLogic;
  * It extends GridPane and contains the logic for initializing and updating the game board.
  */
 public class GameBoard extends GridPane {
+    private static final double PADDING = 10;
+    private static final double GAP = 10;
+    private static final double MARGIN = 10;
+    private static final double MIN_CARD_SIZE = 40;
+    private static final int EVENT_QUEUE_CAPACITY = 64;
+
     private MemoryGameLogic gameLogic;
     private Card[][] cards;
     private boolean isProcessing;
     private Label moveCountLabel;
+    private HBox controls;
+    private ImageMipmaps mipmaps;
+    private double cardSize;
+    private double outputScale;
 
     /**
      * Constructs a GameBoard and initializes its components.
@@ -26,22 +39,39 @@ public class GameBoard extends GridPane {
     public GameBoard() {
         this.gameLogic = new MemoryGameLogic();
         this.cards = new Card[4][4];
+        this.mipmaps = new ImageMipmaps();
+        this.cardSize = 150;
+        this.outputScale = 1;
         initializeBoard();
 
-        gameLogic.setOnBoardUpdated(this::updateBoard);
-        gameLogic.setOnProcessingStart(() -> setProcessing(true));
-        gameLogic.setOnProcessingEnd(() -> setProcessing(false));
-        gameLogic.setOnMoveCountChanged(this::updateMoveCount);
-        gameLogic.setOnGameWon(this::showGameWonDialog);
+        // Events are raised on the JavaFX thread, so handle them there directly
+        gameLogic.getEventBus().subscribe(this::handleGameEvent, Runnable::run, EVENT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Handles an event published by the game logic.
+     *
+     * @param event the event to handle
+     */
+    private void handleGameEvent(GameEvent event) {
+        switch (event.getType()) {
+            case BOARD_UPDATED -> updateBoard();
+            case PROCESSING_STARTED -> setProcessing(true);
+            case PROCESSING_ENDED -> setProcessing(false);
+            case MOVE_COUNT_CHANGED -> updateMoveCount();
+            case GAME_WON -> showGameWonDialog();
+            default -> {
+            }
+        }
     }
 
     /**
      * Initializes the game board layout and components.
      */
     private void initializeBoard() {
-        setPadding(new Insets(10));
-        setHgap(10);
-        setVgap(10);
+        setPadding(new Insets(PADDING));
+        setHgap(GAP);
+        setVgap(GAP);
         setAlignment(Pos.CENTER);
 
         // Apply a background color directly to the game board
@@ -67,11 +97,14 @@ public class GameBoard extends GridPane {
                 + "-fx-border-radius: 5;"
                 + "-fx-padding: 10 20;"
                 + "-fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.2), 5, 0, 0, 2);");
-        add(newGameButton, 1, 5, 2, 1);
 
         moveCountLabel = new Label("Moves: 0");
         moveCountLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
-        add(moveCountLabel, 0, 5, 1, 1);
+
+        // Keep the controls in one cell spanning all columns so they don't widen a card column
+        controls = new HBox(GAP, moveCountLabel, newGameButton);
+        controls.setAlignment(Pos.CENTER_LEFT);
+        add(controls, 0, 4, 4, 1);
     }
 
     /**
@@ -109,6 +142,48 @@ public class GameBoard extends GridPane {
         }
     }
 
+    /**
+     * Resizes the cards to fit the available area and refreshes their images
+     * at the resolution matching the new size and output scale.
+     *
+     * The cards are never made so small that the controls no longer fit under them.
+     *
+     * @param width       the available width
+     * @param height      the available height
+     * @param outputScale the output scale of the window, e.g. 2 on HiDPI screens
+     */
+    public void fitToSize(double width, double height, double outputScale) {
+        Insets insets = getInsets();
+        // Keep a margin of wallpaper around the board.
+        // 4 card columns have 3 gaps; 4 card rows plus the controls row have 4 gaps
+        double cardsWidth = width - 2 * MARGIN - insets.getLeft() - insets.getRight() - 3 * getHgap();
+        double cardsHeight = height - 2 * MARGIN - insets.getTop() - insets.getBottom() - 4 * getVgap()
+                - controls.prefHeight(-1);
+        double minSize = Math.max(MIN_CARD_SIZE, Math.ceil((controls.prefWidth(-1) - 3 * getHgap()) / 4));
+        double size = Math.max(minSize, Math.floor(Math.min(cardsWidth, cardsHeight) / 4));
+        if (size == cardSize && outputScale == this.outputScale) {
+            return;
+        }
+        this.cardSize = size;
+        this.outputScale = outputScale;
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                cards[row][col].setCardSize(size);
+            }
+        }
+        updateBoard();
+    }
+
+    /**
+     * Retrieves an image at the resolution that fits the current card size.
+     *
+     * @param url the URL of the source image
+     * @return the image decoded at the matching mip level
+     */
+    public Image getCardImage(String url) {
+        return mipmaps.getImage(url, cardSize * outputScale);
+    }
+
     /**
      * Sets the processing state of the game.
      *
@@ -0,0 +1,106 @@
+package ca.cmpt213.ans4_q2.ui;
+
+import javafx.scene.image.Image;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ImageMipmaps provides card images decoded at a small set of resolutions.
+ * Levels are generated lazily in the background the first time they are requested, and
+ * only the level currently in use is kept in memory; switching levels releases the previous one.
+ * The current level is kept while the size stays close to it, so resizing back and forth
+ * across a level boundary does not decode the images again each time.
+ * Images are never upscaled: a level at or above a PNG source's size decodes it at native size.
+ */
+public class ImageMipmaps {
+    private static final int[] LEVELS = {64, 128, 256, 512};
+    private static final double HYSTERESIS = 0.15;
+    private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+
+    private final Map<String, Image> images;
+    private final Map<String, Integer> sourceSizes;
+    private int currentLevel;
+
+    /**
+     * Constructs an empty ImageMipmaps cache.
+     */
+    public ImageMipmaps() {
+        this.images = new HashMap<>();
+        this.sourceSizes = new HashMap<>();
+        this.currentLevel = -1;
+    }
+
+    /**
+     * Retrieves the image for the specified source at the level that best fits the given size.
+     *
+     * @param url    the URL of the source image
+     * @param pixels the on-screen size of the image in physical pixels
+     * @return the image decoded at the chosen level
+     */
+    public Image getImage(String url, double pixels) {
+        int level = pickLevel(pixels);
+        if (level != currentLevel) {
+            // All cards share one size, so the old level is no longer needed
+            images.clear();
+            currentLevel = level;
+        }
+        int size = LEVELS[level];
+        int sourceSize = sourceSizes.computeIfAbsent(url, this::readSourceSize);
+        if (sourceSize > 0 && size >= sourceSize) {
+            // A requested size of 0 decodes at the source's native size
+            size = 0;
+        }
+        int requestedSize = size;
+        return images.computeIfAbsent(url,
+                source -> new Image(source, requestedSize, requestedSize, true, true, true));
+    }
+
+    /**
+     * Reads the larger dimension of a PNG source from its header, without decoding it.
+     *
+     * @param url the URL of the source image
+     * @return the larger of the source's width and height, or 0 if it is unknown
+     */
+    private int readSourceSize(String url) {
+        try (InputStream stream = new URL(url).openStream()) {
+            DataInputStream input = new DataInputStream(stream);
+            // The signature is followed by the IHDR chunk's length and type, then width and height
+            if (input.readLong() != PNG_SIGNATURE) {
+                return 0;
+            }
+            input.readLong();
+            return Math.max(input.readInt(), input.readInt());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Picks the level for the given size. The current level is kept while the size is
+     * within the hysteresis band around it; otherwise the smallest level that is at least
+     * as large as the size is picked.
+     *
+     * @param pixels the on-screen size of the image in physical pixels
+     * @return the index of the chosen level
+     */
+    private int pickLevel(double pixels) {
+        if (currentLevel >= 0) {
+            double upper = LEVELS[currentLevel] * (1 + HYSTERESIS);
+            double lower = currentLevel > 0 ? LEVELS[currentLevel - 1] * (1 - HYSTERESIS) : 0;
+            if (pixels > lower && pixels <= upper) {
+                return currentLevel;
+            }
+        }
+        for (int level = 0; level < LEVELS.length; level++) {
+            if (LEVELS[level] >= pixels) {
+                return level;
+            }
+        }
+        return LEVELS.length - 1;
+    }
+}
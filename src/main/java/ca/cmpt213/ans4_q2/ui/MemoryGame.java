@@ -47,6 +47,14 @@ public class MemoryGame extends Application {
         primaryStage.setScene(scene);
         primaryStage.show();
 
+        // Scale the cards with the window size and output scale
+        Runnable fitBoard = () -> gameBoard.fitToSize(scene.getWidth(), scene.getHeight(),
+                primaryStage.getOutputScaleX());
+        scene.widthProperty().addListener((obs, oldValue, newValue) -> fitBoard.run());
+        scene.heightProperty().addListener((obs, oldValue, newValue) -> fitBoard.run());
+        primaryStage.outputScaleXProperty().addListener((obs, oldValue, newValue) -> fitBoard.run());
+        fitBoard.run();
+
         gameBoard.startNewGame();
     }
 
@@ -0,0 +1,88 @@
+package ca.cmpt213.ans4_q2.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GameEventBusBenchmark measures fan-out throughput of the GameEventBus to many subscribers
+ * of one game, with one extra subscriber that takes 1 ms per event. A round must finish in
+ * under a tenth of the time a publisher blocked by that subscriber would need.
+ * It is not part of the default test run; run it with
+ * {@code mvn test -Dtest=GameEventBusBenchmark}.
+ */
+class GameEventBusBenchmark {
+    private static final int[] SUBSCRIBER_COUNTS = {1, 16, 256};
+    private static final int EVENTS = 200_000;
+    private static final int CAPACITY = 64;
+    private static final int THREADS = 4;
+    private static final int SLOW_MILLIS = 1;
+
+    @Test
+    void fanOutThroughput() throws InterruptedException {
+        for (int subscribers : SUBSCRIBER_COUNTS) {
+            run(subscribers);
+        }
+    }
+
+    /**
+     * Publishes a warm-up round and a measured round to the given number of subscribers.
+     *
+     * @param subscribers the number of fast subscribers
+     */
+    private void run(int subscribers) throws InterruptedException {
+        GameEventBus bus = new GameEventBus();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicLong delivered = new AtomicLong();
+        for (int i = 0; i < subscribers; i++) {
+            bus.subscribe(event -> delivered.incrementAndGet(), executor, CAPACITY);
+        }
+        GameEventBus.Subscription slow = bus.subscribe(event -> sleep(), executor, CAPACITY);
+
+        publish(bus);
+        long start = System.nanoTime();
+        publish(bus);
+        long elapsed = System.nanoTime() - start;
+
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        double published = 2.0 * EVENTS;
+        System.out.printf("subscribers=%d publish=%.0f ns/event offers=%.1fM/s delivered=%d slowDropped=%d%n",
+                subscribers, elapsed / published, published * subscribers / (elapsed / 1e9) / 1e6,
+                delivered.get(), slow.getDroppedCount());
+
+        // A publisher that waited for the slow subscriber would need SLOW_MILLIS per reveal at least
+        long blockedMillis = (long) EVENTS * SLOW_MILLIS;
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(elapsed) < blockedMillis / 10);
+        assertTrue(slow.getDroppedCount() > 0);
+    }
+
+    /**
+     * Publishes one round of reveal and move count events.
+     *
+     * @param bus the bus to publish on
+     */
+    private void publish(GameEventBus bus) {
+        for (int i = 0; i < EVENTS; i++) {
+            bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 0, 1, i));
+            bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, i));
+        }
+    }
+
+    /**
+     * Simulates a slow subscriber.
+     */
+    private static void sleep() {
+        try {
+            Thread.sleep(SLOW_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package ca.cmpt213.ans4_q2.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameEventBusTest {
+    private GameEventBus bus;
+    private Queue<Runnable> tasks;
+    private List<GameEvent> received;
+
+    @BeforeEach
+    void setUp() {
+        bus = new GameEventBus();
+        tasks = new ArrayDeque<>();
+        received = new ArrayList<>();
+    }
+
+    /**
+     * Runs the delivery tasks queued by the manual executor.
+     */
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    @Test
+    void directExecutorDeliversImmediately() {
+        bus.subscribe(received::add, Runnable::run, 8);
+
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 1, 2, 3, 0));
+
+        assertEquals(1, received.size());
+        GameEvent event = received.get(0);
+        assertEquals(GameEventType.CARD_REVEALED, event.getType());
+        assertEquals(1, event.getRow());
+        assertEquals(2, event.getCol());
+        assertEquals(3, event.getFaceId());
+    }
+
+    @Test
+    void pendingMoveCountsAreCoalescedToTheLatest() {
+        bus.subscribe(received::add, tasks::add, 8);
+
+        bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, 1));
+        bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, 2));
+        bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, 3));
+        runTasks();
+
+        assertEquals(1, received.size());
+        assertEquals(3, received.get(0).getMoveCount());
+    }
+
+    @Test
+    void coalescedEventMovesToTheEndOfTheQueue() {
+        bus.subscribe(received::add, tasks::add, 8);
+
+        bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, 0));
+        bus.publish(new GameEvent(GameEventType.CARD_MATCHED, 0, 0, 1, 0));
+        bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, 1));
+        runTasks();
+
+        assertEquals(2, received.size());
+        assertEquals(GameEventType.CARD_MATCHED, received.get(0).getType());
+        assertEquals(GameEventType.MOVE_COUNT_CHANGED, received.get(1).getType());
+        assertEquals(1, received.get(1).getMoveCount());
+    }
+
+    @Test
+    void nonCoalescableEventsAreNotCoalesced() {
+        bus.subscribe(received::add, tasks::add, 8);
+
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 0, 1, 0));
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 1, 2, 0));
+        runTasks();
+
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    void fullQueueIsReplacedByEventsDropped() {
+        GameEventBus.Subscription subscription = bus.subscribe(received::add, tasks::add, 2);
+
+        bus.publish(new GameEvent(GameEventType.GAME_RESET, 0));
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 1, 2, 0));
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 2, 3, 0));
+        runTasks();
+
+        assertEquals(2, subscription.getDroppedCount());
+        assertEquals(2, received.size());
+        assertEquals(GameEventType.EVENTS_DROPPED, received.get(0).getType());
+        assertEquals(GameEventType.CARD_REVEALED, received.get(1).getType());
+        assertEquals(3, received.get(1).getFaceId());
+    }
+
+    @Test
+    void coalescingDoesNotOverflowTheQueue() {
+        GameEventBus.Subscription subscription = bus.subscribe(received::add, tasks::add, 1);
+
+        bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, 1));
+        bus.publish(new GameEvent(GameEventType.MOVE_COUNT_CHANGED, 2));
+        runTasks();
+
+        assertEquals(0, subscription.getDroppedCount());
+        assertEquals(1, received.size());
+        assertEquals(2, received.get(0).getMoveCount());
+    }
+
+    @Test
+    void eventsAreDeliveredInOrderThroughAThreadPool() throws InterruptedException {
+        int count = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(count);
+        bus.subscribe(event -> {
+            order.add(event.getMoveCount());
+            done.countDown();
+        }, executor, count);
+
+        for (int i = 0; i < count; i++) {
+            bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 0, 1, i));
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    void unsubscribedListenerReceivesNoFurtherEvents() {
+        GameEventBus.Subscription subscription = bus.subscribe(received::add, Runnable::run, 8);
+
+        bus.publish(new GameEvent(GameEventType.GAME_RESET, 0));
+        bus.unsubscribe(subscription);
+        bus.publish(new GameEvent(GameEventType.GAME_WON, 0));
+
+        assertEquals(1, received.size());
+        assertEquals(GameEventType.GAME_RESET, received.get(0).getType());
+        assertFalse(subscription.isActive());
+    }
+
+    @Test
+    void rejectingExecutorIsUnsubscribed() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        GameEventBus.Subscription rejected = bus.subscribe(received::add, executor, 8);
+        List<GameEvent> others = new ArrayList<>();
+        bus.subscribe(others::add, Runnable::run, 8);
+
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 0, 1, 0));
+        bus.publish(new GameEvent(GameEventType.GAME_WON, 0));
+
+        assertFalse(rejected.isActive());
+        assertTrue(received.isEmpty());
+        assertEquals(2, others.size());
+    }
+
+    @Test
+    void failingListenerDoesNotAffectPublisherOrOtherSubscribers() {
+        GameEventBus.Subscription failing = bus.subscribe(event -> {
+            throw new IllegalStateException("listener failure");
+        }, Runnable::run, 8);
+        bus.subscribe(received::add, Runnable::run, 8);
+
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 0, 1, 0));
+        bus.publish(new GameEvent(GameEventType.GAME_WON, 0));
+
+        assertEquals(2, failing.getFailedCount());
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    void failingListenerKeepsDraining() {
+        GameEventBus.Subscription subscription = bus.subscribe(event -> {
+            if (event.getType() == GameEventType.CARD_REVEALED) {
+                throw new IllegalStateException("listener failure");
+            }
+            received.add(event);
+        }, tasks::add, 8);
+
+        bus.publish(new GameEvent(GameEventType.CARD_REVEALED, 0, 0, 1, 0));
+        bus.publish(new GameEvent(GameEventType.GAME_WON, 0));
+        runTasks();
+
+        assertEquals(1, subscription.getFailedCount());
+        assertEquals(1, received.size());
+        assertEquals(GameEventType.GAME_WON, received.get(0).getType());
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> bus.subscribe(received::add, Runnable::run, 0));
+    }
+}
@@ -0,0 +1,95 @@
+package ca.cmpt213.ans4_q2.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeenCardIndexTest {
+    private SeenCardIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SeenCardIndex(4);
+    }
+
+    @Test
+    void singleRevealIsNotAKnownPair() {
+        index.recordReveal(0, 0, 1);
+
+        assertFalse(index.hasKnownPair());
+        assertNull(index.getKnownPair());
+        assertNull(index.findPartner(0, 0, 1));
+    }
+
+    @Test
+    void revealingBothCardsMakesAKnownPair() {
+        index.recordReveal(0, 1, 3);
+        index.recordReveal(2, 3, 3);
+
+        assertTrue(index.hasKnownPair());
+        assertArrayEquals(new int[]{0, 1, 2, 3}, index.getKnownPair());
+    }
+
+    @Test
+    void revealingTheSameCardTwiceIsNotAKnownPair() {
+        index.recordReveal(1, 1, 5);
+        index.recordReveal(1, 1, 5);
+
+        assertFalse(index.hasKnownPair());
+    }
+
+    @Test
+    void findPartnerReturnsThePartnerOfASeenCard() {
+        index.recordReveal(0, 2, 4);
+        index.recordReveal(3, 0, 4);
+
+        assertArrayEquals(new int[]{3, 0}, index.findPartner(0, 2, 4));
+        assertArrayEquals(new int[]{0, 2}, index.findPartner(3, 0, 4));
+    }
+
+    @Test
+    void findPartnerIgnoresCardsThatHaveNotBeenSeen() {
+        index.recordReveal(0, 2, 4);
+
+        // The card at (1, 1) also has face 4 but has never been revealed
+        assertNull(index.findPartner(1, 1, 4));
+    }
+
+    @Test
+    void recordMatchRemovesThePair() {
+        index.recordReveal(0, 0, 2);
+        index.recordReveal(0, 1, 2);
+        index.recordMatch(2);
+
+        assertFalse(index.hasKnownPair());
+        assertNull(index.getKnownPair());
+        assertNull(index.findPartner(0, 0, 2));
+    }
+
+    @Test
+    void recordMatchKeepsOtherPairs() {
+        index.recordReveal(0, 0, 2);
+        index.recordReveal(0, 1, 2);
+        index.recordReveal(1, 0, 7);
+        index.recordReveal(1, 1, 7);
+        index.recordMatch(2);
+
+        assertTrue(index.hasKnownPair());
+        assertArrayEquals(new int[]{1, 0, 1, 1}, index.getKnownPair());
+    }
+
+    @Test
+    void clearForgetsEverything() {
+        index.recordReveal(0, 0, 6);
+        index.recordReveal(3, 3, 6);
+        index.clear();
+
+        assertFalse(index.hasKnownPair());
+        assertNull(index.getKnownPair());
+        assertNull(index.findPartner(0, 0, 6));
+    }
+}